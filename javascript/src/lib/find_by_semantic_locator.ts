@@ -30,6 +30,35 @@ export function findElementsBySemanticLocator(
   return result.found as HTMLElement[];
 }
 
+/**
+ * Find all elements matched by the given semantic locator below each of
+ * `roots`. The locator is parsed once and all roots are searched in a single
+ * batch operation, so work shared between roots (e.g. computing accessible
+ * names) is only done once.
+ *
+ * @return a list containing the elements found for each root, in the same
+ *     order as `roots`. Elements for each root are in document order.
+ */
+export function findElementsBySemanticLocatorUnderRoots(
+    locator: string,
+    roots: readonly HTMLElement[],
+    ): HTMLElement[][] {
+  const parsed = parse(locator);
+  const findAll = () => roots.map(root => {
+    const result = findBySemanticLocator(parsed, root);
+    return isEmptyResultsMetadata(result) ? [] : result.found as HTMLElement[];
+  });
+  let results: HTMLElement[][] = [];
+  if (inBatchOp()) {
+    results = findAll();
+  } else {
+    runBatchOp(() => {
+      results = findAll();
+    });
+  }
+  return results;
+}
+
 /**
  * Find the first element in the DOM by the given semantic locator. Throws
  * NoSuchElementError if no matching elements are found.
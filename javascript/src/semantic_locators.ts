@@ -4,4 +4,4 @@
  * SPDX-License-Identifier: Apache-2.0
  */
 
-export {findElementBySemanticLocator, findElementsBySemanticLocator} from './lib/find_by_semantic_locator';
+export {findElementBySemanticLocator, findElementsBySemanticLocator, findElementsBySemanticLocatorUnderRoots} from './lib/find_by_semantic_locator';
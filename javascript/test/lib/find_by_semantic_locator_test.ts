@@ -7,7 +7,7 @@
 import {html, render} from 'lit';
 
 import {runBatchOp} from '../../src/lib/batch_cache';
-import {findElementBySemanticLocator, findElementsBySemanticLocator} from '../../src/lib/find_by_semantic_locator';
+import {findElementBySemanticLocator, findElementsBySemanticLocator, findElementsBySemanticLocatorUnderRoots} from '../../src/lib/find_by_semantic_locator';
 
 let container: HTMLElement;
 beforeEach(() => {
@@ -516,3 +516,52 @@ describe('findElementBySemanticLocator', () => {
     expect(() => findElementBySemanticLocator('{button}', container)).toThrow();
   });
 });
+
+describe('findElementsBySemanticLocatorUnderRoots', () => {
+  it('returns the elements found below each root', () => {
+    render(
+        html`
+        <div id="first"><button id="a">OK</button></div>
+        <div id="second"><button id="b">OK</button><button>Cancel</button></div>
+        <div id="third"></div>`,
+        container);
+    const roots = ['first', 'second', 'third'].map(
+        id => document.getElementById(id)!);
+
+    expect(findElementsBySemanticLocatorUnderRoots("{button 'OK'}", roots))
+        .toEqual([
+          [document.getElementById('a')!],
+          [document.getElementById('b')!],
+          [],
+        ]);
+  });
+
+  it('applies outer semantics relative to each root', () => {
+    render(
+        html`
+        <ul id="outer"><li id="a">
+          <ul id="inner"><li id="b">xxx</li></ul>
+        </li></ul>`,
+        container);
+    const roots = ['outer', 'inner'].map(id => document.getElementById(id)!);
+
+    expect(findElementsBySemanticLocatorUnderRoots('outer {listitem}', roots))
+        .toEqual([
+          [document.getElementById('a')!],
+          [document.getElementById('b')!],
+        ]);
+  });
+
+  it('can be called during a batch operation', () => {
+    render(html`<button id="foo">OK</button>`, container);
+
+    runBatchOp(() => {
+      expect(findElementsBySemanticLocatorUnderRoots('{button}', [container]))
+          .toEqual([[document.getElementById('foo')!]]);
+    });
+  });
+
+  it('returns an empty list for no roots', () => {
+    expect(findElementsBySemanticLocatorUnderRoots('{button}', [])).toEqual([]);
+  });
+});
@@ -6,7 +6,7 @@
 
 import {SemanticLocatorError} from 'google3/third_party/semantic_locators/javascript/lib/error';
 import {QuoteChar} from 'google3/third_party/semantic_locators/javascript/lib/types';
-import {findElementBySemanticLocator, findElementsBySemanticLocator} from 'semantic-locators';
+import {findElementBySemanticLocator, findElementsBySemanticLocator, findElementsBySemanticLocatorUnderRoots} from 'semantic-locators';
 import {closestPreciseLocatorFor, closestSimpleLocatorFor, preciseLocatorFor, simpleLocatorFor} from 'semantic-locators/gen';
 
 /**
@@ -36,6 +36,9 @@ function exportGlobal(name: string, value: unknown) {
 
 exportGlobal('findElementsBySemanticLocator', findElementsBySemanticLocator);
 exportGlobal('findElementBySemanticLocator', findElementBySemanticLocator);
+exportGlobal(
+    'findElementsBySemanticLocatorUnderRoots',
+    findElementsBySemanticLocatorUnderRoots);
 exportGlobal(
     'closestPreciseLocatorFor',
     (element: HTMLElement, rootEl?: HTMLElement, quoteChar?: QuoteChar) =>
@@ -92,6 +92,6 @@ var q=m.split("*");if(g.startsWith(q[0])&&g.endsWith(q[q.length-1])){m=0;q=y(q);
 function dc(a,b){var c=a.parentElement?R(a.parentElement,Db):null;if(null!==c)return console.info("Element "+c+" has a role of "+(S(c)+", so it has presentational children (https://www.w3.org/TR/wai-aria-practices/#children_presentational). These presentational elements will be ignored while generating this semantic locator")),dc(c,b);a=ec(a,b);if(null===a)return null;c=[a.node];for(var d=a.element.parentElement,e=Y(c,b);null!==d&&!e.every(function(m){return d.contains(m)});){var f=ec(d,b);if(null!==
 f){var h=[].concat(z(c));h.unshift(f.node);h=Y(h,b);h.length<e.length&&c.unshift(f.node);e=h}var g=h=void 0;d=null!=(g=null==(h=f)?void 0:h.element.parentElement)?g:null}K(e.includes(a.element),"Cannot find element again with locator we just generated:\nNodes: "+(c+"\nElement: ")+(a.element.outerHTML+"\n"));return{U:c,element:a.element}}
 function fc(a,b,c){K(0!==a.length,"Trying to refine empty array of nodes");if(2>=a.length)var d=a;else{d=Y(a,c);for(var e=a.slice(0,1),f=1;f<a.length-1;f++){var h=e.concat(a.slice(f+1));Y(h,c).length>d.length&&e.push(a[f])}e.push(a[a.length-1]);d=e}e=d;K(Y(e,c).includes(b),"Removing redundant nodes does not resolve element anymore:\nInitial nodes: "+(a+"\nAfter refinement: ")+(e+"\n"));a=new V(e,[]);d=lc(a,c);e=new V([],e);c=lc(e,c);return c.includes(b)&&c.length<d.length?e:a}
-function ec(a,b){for(;null!==a&&b.contains(a)&&b!==a;){var c=mc(a);if(null!==c)return{node:c,element:a};a=a.parentElement}return null}function mc(a){if(Cb(a))return null;var b=S(a);return null===b?null:new Tb(b,[],db(a))}function lc(a,b){var c=W(a,b);Xa(Nb(c),function(){return"assuredFindByLocator found no elements: "+Yb(a,b,c)+";"});return c.m}function Y(a,b){a=new V(a,[]);return lc(a,b)};function nc(a){return function(){var b=pa.apply(0,arguments);try{return a.apply(null,z(b))}catch(c){throw c instanceof M&&(c=Error(c.M+": "+c.message)),c;}}}function Z(a,b){"function"===typeof b&&(b=nc(b));window[a]=b}Z("findElementsBySemanticLocator",function(a,b){b=void 0===b?document.body:b;a=W(Xb(a),b);return T(a)?[]:a.m});Z("findElementBySemanticLocator",function(a,b){b=void 0===b?document.body:b;a=Xb(a);var c=W(a,b);if(T(c))throw new bb(Yb(a,b,c));return c.m[0]});
+function ec(a,b){for(;null!==a&&b.contains(a)&&b!==a;){var c=mc(a);if(null!==c)return{node:c,element:a};a=a.parentElement}return null}function mc(a){if(Cb(a))return null;var b=S(a);return null===b?null:new Tb(b,[],db(a))}function lc(a,b){var c=W(a,b);Xa(Nb(c),function(){return"assuredFindByLocator found no elements: "+Yb(a,b,c)+";"});return c.m}function Y(a,b){a=new V(a,[]);return lc(a,b)};function nc(a){return function(){var b=pa.apply(0,arguments);try{return a.apply(null,z(b))}catch(c){throw c instanceof M&&(c=Error(c.M+": "+c.message)),c;}}}function Z(a,b){"function"===typeof b&&(b=nc(b));window[a]=b}Z("findElementsBySemanticLocator",function(a,b){b=void 0===b?document.body:b;a=W(Xb(a),b);return T(a)?[]:a.m});Z("findElementsBySemanticLocatorUnderRoots",function(a,b){a=Xb(a);var c=function(){return b.map(function(d){d=W(a,d);return T(d)?[]:d.m})},d=[];L?d=c():Za(function(){d=c()});return d});Z("findElementBySemanticLocator",function(a,b){b=void 0===b?document.body:b;a=Xb(a);var c=W(a,b);if(T(c))throw new bb(Yb(a,b,c));return c.m[0]});
 Z("closestPreciseLocatorFor",function(a,b,c){b={rootEl:b,quoteChar:c};c=b=void 0===b?{}:b;b=c.quoteChar;(c=cc(a,c.rootEl))?(a=dc(a,c),a=null===a?null:fc(a.U,a.element,c).toString(b)):a=null;return a});Z("preciseLocatorFor",function(a,b,c){b={rootEl:b,quoteChar:c};c=b=void 0===b?{}:b;b=c.quoteChar;if(c=cc(a,c.rootEl)){var d=dc(a,c);a=null===d||d.element!==a?null:fc(d.U,d.element,c).toString(b)}else a=null;return a});
 Z("closestSimpleLocatorFor",function(a,b,c){b={rootEl:b,quoteChar:c};c=b=void 0===b?{}:b;b=c.quoteChar;if(c=cc(a,c.rootEl)){var d,e,f;a=null!=(f=null==(d=ec(a,c))?void 0:null==(e=d.node)?void 0:e.toString(b))?f:null}else a=null;return a});Z("simpleLocatorFor",function(a,b){var c,d;return null!=(d=null==(c=mc(a))?void 0:c.toString(b))?d:null});Z("semanticLocatorsReady",!0);}).call(this);
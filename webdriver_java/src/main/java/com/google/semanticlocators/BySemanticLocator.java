@@ -25,6 +25,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import org.openqa.selenium.By;
 import org.openqa.selenium.InvalidSelectorException;
 import org.openqa.selenium.JavascriptException;
@@ -92,6 +95,33 @@ public class BySemanticLocator extends By {
             getArgs(semanticLocator, context));
   }
 
+  /**
+   * Find all elements matching this locator below each of `roots`, using a single script execution
+   * rather than one per root. The locator is evaluated relative to each root individually, as if
+   * `root.findElements(this)` had been called for each one.
+   *
+   * <p>Returns a map from each root to the elements found below it, iterating in the same order as
+   * `roots`. Roots with no matching elements map to an empty list.
+   */
+  public Map<WebElement, List<WebElement>> findElementsUnder(List<WebElement> roots) {
+    Map<WebElement, List<WebElement>> found = new LinkedHashMap<>();
+    if (roots.isEmpty()) {
+      return found;
+    }
+    Object result =
+        callJsFunction(
+            getExecutor(roots.get(0)),
+            "findElementsBySemanticLocatorUnderRoots",
+            semanticLocator,
+            roots);
+    @SuppressWarnings("unchecked")
+    List<List<WebElement>> cast = (List<List<WebElement>>) result;
+    for (int i = 0; i < roots.size(); i++) {
+      found.put(roots.get(i), cast.get(i));
+    }
+    return found;
+  }
+
   private static Object[] getArgs(String semanticLocator, SearchContext context) {
     return (context instanceof WebElement
         ? new Object[] {semanticLocator, context}
@@ -25,6 +25,7 @@ import com.google.common.collect.ImmutableSet;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import junitparams.JUnitParamsRunner;
 import junitparams.Parameters;
 import org.junit.AfterClass;
@@ -113,6 +114,27 @@ public final class BySemanticLocatorTest {
     assertThat(elements).hasSize(1);
   }
 
+  @Test
+  @Parameters(method = "getAllDriverNames")
+  public void findElementsUnder_findsWithinEachRoot(String driverName) throws Exception {
+    WebDriver driver = getDriver(driverName);
+    renderHtml(
+        "<button>OK</button>"
+            + "<div class='card'><button id='first'>OK</button></div>"
+            + "<div class='card'><button id='second'>OK</button><button>Cancel</button></div>"
+            + "<div class='card'></div>",
+        driver);
+    List<WebElement> roots = driver.findElements(By.className("card"));
+
+    Map<WebElement, List<WebElement>> found =
+        new BySemanticLocator("{button 'OK'}").findElementsUnder(roots);
+
+    assertThat(found.keySet()).containsExactlyElementsIn(roots).inOrder();
+    assertThat(found.get(roots.get(0))).containsExactly(driver.findElement(By.id("first")));
+    assertThat(found.get(roots.get(1))).containsExactly(driver.findElement(By.id("second")));
+    assertThat(found.get(roots.get(2))).isEmpty();
+  }
+
   @Test
   @Parameters(method = "invalidSyntaxTests")
   public void findElements_throwsExceptionForInvalidSyntax(String semantic, String driverName)